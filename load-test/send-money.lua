@@ -0,0 +1,20 @@
+-- wrk script for POST /api/accounts/send-money between a pool of pre-created accounts.
+-- Usage: wrk -t8 -c10000 -d60s --timeout 30s -s load-test/send-money.lua http://localhost:8080
+-- Accounts 1..ACCOUNTS must exist with enough balance before the run. 429 responses show up as
+-- "Non-2xx or 3xx responses" in the wrk summary.
+
+local accounts = tonumber(os.getenv("ACCOUNTS") or "1000")
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+
+request = function()
+   local from = math.random(accounts)
+   local to = from % accounts + 1
+   local body = string.format('{"fromAccountNumber":"%d","toAccountNumber":"%d","amount":1}', from, to)
+   return wrk.format(nil, "/api/accounts/send-money", nil, body)
+end
+
+done = function(summary, latency, requests)
+   io.write(string.format("p50=%.1fms p99=%.1fms p99.9=%.1fms\n",
+      latency:percentile(50) / 1000, latency:percentile(99) / 1000, latency:percentile(99.9) / 1000))
+end